@@ -2,11 +2,20 @@ import javax.swing.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.util.*;
 
 public class GUI extends JFrame {
+    private static final String EDGES_FILE = "/Users/danmas/CSC365P3/edges.txt";
+    //memory budget for cached shortest path trees
+    private static final long PATH_CACHE_BYTES = 16L * 1024 * 1024;
+
+    private final ShortestPathCache pathCache = new ShortestPathCache(PATH_CACHE_BYTES);
+    private Map<String, Map<String, Double>> graph;
+    private long graphLastModified = -1;
+
     private JTextField startUrlField;
     private JTextField endUrlField;
     private JTextArea resultArea;
@@ -103,8 +112,7 @@ public class GUI extends JFrame {
     }
     private void displayDisjointSets() {
         try {
-            Map<String, Map<String, Double>> graph = buildGraph("/Users/danmas/CSC365P3/edges.txt");
-            Set<Set<String>> disjointSets = findDisjointSets(graph);
+            Set<Set<String>> disjointSets = findDisjointSets(loadGraph());
             resultArea.append("Disjoint Sets (" + disjointSets.size() + "):\n"); // Display the count of disjoint sets
 
             for (Set<String> set : disjointSets) {
@@ -163,6 +171,17 @@ public class GUI extends JFrame {
         return graph;
     }
 
+    //Rebuild graph only when the edges file changed, invalidating cached path trees
+    private Map<String, Map<String, Double>> loadGraph() throws IOException {
+        long lastModified = new File(EDGES_FILE).lastModified();
+        if (graph == null || lastModified != graphLastModified) {
+            graph = buildGraph(EDGES_FILE);
+            graphLastModified = lastModified;
+            pathCache.reload(graph);
+        }
+        return graph;
+    }
+
     private double calculatePathCost(List<String> path, Map<String, Map<String, Double>> graph) {
         double totalCost = 0.0;
         for (int i = 0; i < path.size() - 1; i++) {
@@ -176,10 +195,10 @@ public class GUI extends JFrame {
     private void findShortestPath() throws IOException {
         String startUrl = startUrlField.getText();
         String endUrl = endUrlField.getText();
-        Map<String, Map<String, Double>> graph = buildGraph("/Users/danmas/CSC365P3/edges.txt");
+        loadGraph();
 
-        List<String> shortestPath = dijkstra(graph, startUrl, endUrl);
-        double shortestPathCost = calculatePathCost(shortestPath, graph);
+        List<String> shortestPath = pathCache.shortestPath(startUrl, endUrl);
+        double shortestPathCost = shortestPath.isEmpty() ? 0.0 : pathCache.shortestPathCost(startUrl, endUrl);
 
         List<String> alternativePath = findAlternativePath(graph, shortestPath, startUrl, endUrl);
         double alternativePathCost = calculatePathCost(alternativePath, graph);
@@ -190,6 +209,7 @@ public class GUI extends JFrame {
         } else {
             resultText += "\nNo alternative path found.";
         }
+        resultText += "\n" + pathCache.getStats();
         resultArea.setText(resultText);
     }
 
@@ -207,11 +227,13 @@ public class GUI extends JFrame {
             // Remove edge
             Double cost = graph.get(from).remove(to);
 
-            // Find new shortest path with this edge removed
-            List<String> newShortestPath = dijkstra(graph, start, end);
-
-            // Restore the edge
-            graph.get(from).put(to, cost);
+            // Find new shortest path with this edge removed; restore it even if dijkstra throws (graph is shared)
+            List<String> newShortestPath;
+            try {
+                newShortestPath = dijkstra(graph, start, end);
+            } finally {
+                graph.get(from).put(to, cost);
+            }
 
             if (!newShortestPath.equals(shortestPath) && !newShortestPath.isEmpty()) {
                 return newShortestPath; // Found an alternative path
@@ -0,0 +1,235 @@
+import java.util.*;
+
+public class ShortestPathCache {
+
+    //rough per-tree overhead (arrays headers, map entry, tree object)
+    private static final long TREE_OVERHEAD_BYTES = 96;
+
+    //upper bound on memory held by cached trees
+    private final long maxBytes;
+
+    //vertex <-> int index, rebuilt when graph is reloaded
+    private Map<String, Integer> vertexIndex;
+    private String[] vertices;
+    //adjacency as index arrays so cached runs don't touch the string maps
+    private int[][] neighbors;
+    private double[][] costs;
+
+    //source index -> shortest path tree, access ordered for LRU eviction
+    private final LinkedHashMap<Integer, PathTree> trees;
+    private long usedBytes;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public ShortestPathCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+        this.trees = new LinkedHashMap<>(16, 0.75f, true);
+        reload(Collections.emptyMap());
+    }
+
+    //Drop every cached tree and re-index the new graph
+    public void reload(Map<String, Map<String, Double>> graph) {
+        trees.clear();
+        usedBytes = 0;
+
+        vertexIndex = new HashMap<>();
+        for (Map.Entry<String, Map<String, Double>> entry : graph.entrySet()) {
+            indexOf(entry.getKey());
+            for (String destination : entry.getValue().keySet()) {
+                indexOf(destination);
+            }
+        }
+        vertices = new String[vertexIndex.size()];
+        for (Map.Entry<String, Integer> entry : vertexIndex.entrySet()) {
+            vertices[entry.getValue()] = entry.getKey();
+        }
+
+        neighbors = new int[vertices.length][];
+        costs = new double[vertices.length][];
+        for (int v = 0; v < vertices.length; v++) {
+            Map<String, Double> out = graph.getOrDefault(vertices[v], Collections.emptyMap());
+            neighbors[v] = new int[out.size()];
+            costs[v] = new double[out.size()];
+            int i = 0;
+            for (Map.Entry<String, Double> edge : out.entrySet()) {
+                neighbors[v][i] = vertexIndex.get(edge.getKey());
+                costs[v][i] = edge.getValue();
+                i++;
+            }
+        }
+    }
+
+    private int indexOf(String vertex) {
+        Integer index = vertexIndex.get(vertex);
+        if (index == null) {
+            index = vertexIndex.size();
+            vertexIndex.put(vertex, index);
+        }
+        return index;
+    }
+
+    //Shortest path from start to end, computing and caching start's full tree on a miss
+    public List<String> shortestPath(String start, String end) {
+        if (start.equals(end)) {
+            return Collections.singletonList(start); //same as buildPath, even for pages not in the graph
+        }
+        Integer source = vertexIndex.get(start);
+        Integer target = vertexIndex.get(end);
+        if (source == null || target == null) {
+            System.err.println("No path found between " + start + " and " + end);
+            return Collections.emptyList();
+        }
+        return treeFor(source, true).pathTo(target);
+    }
+
+    //Cost of the shortest path from start to end, or infinity if unreachable.
+    //Meant to follow shortestPath for the same pair, so it isn't counted in the hit rate
+    public double shortestPathCost(String start, String end) {
+        if (start.equals(end)) {
+            return 0.0;
+        }
+        Integer source = vertexIndex.get(start);
+        Integer target = vertexIndex.get(end);
+        if (source == null || target == null) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return treeFor(source, false).distanceTo(target);
+    }
+
+    private PathTree treeFor(int source, boolean recordStats) {
+        PathTree tree = trees.get(source);
+        if (tree != null) {
+            if (recordStats) {
+                hits++;
+            }
+        } else {
+            if (recordStats) {
+                misses++;
+            }
+            tree = computeTree(source);
+            store(source, tree);
+        }
+        return tree;
+    }
+
+    private void store(int source, PathTree tree) {
+        long size = tree.sizeInBytes();
+        if (size > maxBytes) {
+            return; //a single tree bigger than the budget is never cached
+        }
+        trees.put(source, tree);
+        usedBytes += size;
+
+        //evict least recently used trees until back under budget
+        Iterator<PathTree> it = trees.values().iterator();
+        while (usedBytes > maxBytes && it.hasNext()) {
+            PathTree eldest = it.next();
+            it.remove();
+            usedBytes -= eldest.sizeInBytes();
+            evictions++;
+        }
+    }
+
+    //Dijkstra without early exit so the whole tree from source is settled
+    private PathTree computeTree(int source) {
+        int n = vertices.length;
+        double[] distances = new double[n];
+        int[] predecessors = new int[n];
+        boolean[] visited = new boolean[n];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        Arrays.fill(predecessors, -1);
+        distances[source] = 0.0;
+
+        //queue holds (distance, vertex) snapshots; stale entries are skipped when polled
+        PriorityQueue<double[]> queue = new PriorityQueue<>(Comparator.comparingDouble(entry -> entry[0]));
+        queue.add(new double[]{0.0, source});
+
+        while (!queue.isEmpty()) {
+            int current = (int) queue.poll()[1];
+            if (visited[current]) {
+                continue;
+            }
+            visited[current] = true;
+
+            for (int i = 0; i < neighbors[current].length; i++) {
+                int neighbor = neighbors[current][i];
+                if (!visited[neighbor]) {
+                    double newDist = distances[current] + costs[current][i];
+                    if (newDist < distances[neighbor]) {
+                        distances[neighbor] = newDist;
+                        predecessors[neighbor] = current;
+                        queue.add(new double[]{newDist, neighbor});
+                    }
+                }
+            }
+        }
+
+        return new PathTree(source, distances, predecessors);
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    public int getCachedTreeCount() {
+        return trees.size();
+    }
+
+    public long getUsedBytes() {
+        return usedBytes;
+    }
+
+    public String getStats() {
+        return String.format("Path cache: %d hits, %d misses (%.1f%% hit rate), %d trees cached (%d KB), %d evictions",
+                hits, misses, getHitRate() * 100, trees.size(), usedBytes / 1024, evictions);
+    }
+
+    //Complete single-source shortest path tree as compact index arrays
+    private class PathTree {
+        private final int source;
+        private final double[] distances;
+        private final int[] predecessors;
+
+        PathTree(int source, double[] distances, int[] predecessors) {
+            this.source = source;
+            this.distances = distances;
+            this.predecessors = predecessors;
+        }
+
+        long sizeInBytes() {
+            return TREE_OVERHEAD_BYTES + (long) distances.length * Double.BYTES + (long) predecessors.length * Integer.BYTES;
+        }
+
+        double distanceTo(int target) {
+            return distances[target];
+        }
+
+        //walk predecessors back from target, same contract as GUI.buildPath
+        List<String> pathTo(int target) {
+            if (target != source && predecessors[target] == -1) {
+                System.err.println("No path found between " + vertices[source] + " and " + vertices[target]);
+                return Collections.emptyList();
+            }
+            LinkedList<String> path = new LinkedList<>();
+            for (int at = target; at != -1; at = predecessors[at]) {
+                path.addFirst(vertices[at]);
+            }
+            return path;
+        }
+    }
+}